@@ -12,6 +12,11 @@ import java.util.Comparator;
  * such as adding, removing, and retrieving elements. It dynamically resizes the internal
  * array as elements are added, ensuring efficient memory usage.
  *
+ * <p>After {@link #enableChangeTracking()} the list also tracks the positions modified since it
+ * was last sorted by {@link MyCollections}, which allows
+ * {@link MyCollections#resort(MyArrayList, Comparator)} to re-sort only the changed elements
+ * instead of the whole list. Tracking is off by default and costs nothing until enabled.
+ *
  * @param <T> the type of elements stored in this list
  */
 public class MyArrayList<T> {
@@ -31,6 +36,15 @@ public class MyArrayList<T> {
      * An empty array used for lists with an initial capacity of zero.
      */
     private static final Object[] EMPTY_ELEMENTDATA = {};
+    /**
+     * Marks the positions modified since the list was last marked sorted,
+     * kept in step with {@link #elementData}; {@code null} while change tracking is off.
+     */
+    private boolean[] dirty;
+    /**
+     * The number of positions currently marked in {@link #dirty}.
+     */
+    private int dirtyCount;
 
     /**
      * Creates a list with the default capacity.
@@ -81,6 +95,7 @@ public class MyArrayList<T> {
      */
     public void add(T element) {
         ensureCapacity(size + 1);
+        markDirty(size);
         elementData[size++] = element;
     }
 
@@ -108,11 +123,16 @@ public class MyArrayList<T> {
     public T remove(int index) {
         rangeCheck(index);
         T removeElem = (T) elementData[index];
+        unmarkDirty(index);
         int move = size - index - 1;
         if (move > 0) {
             System.arraycopy(elementData, index + 1, elementData, index, move);
+            if (dirty != null)
+                System.arraycopy(dirty, index + 1, dirty, index, move);
         }
         elementData[--size] = null;
+        if (dirty != null)
+            dirty[size] = false;
         return removeElem;
     }
 
@@ -151,9 +171,15 @@ public class MyArrayList<T> {
      */
     private void removeObj(Object[] elements, int i) {
         final int newSize;
-        if ((newSize = size - 1) > i)
+        unmarkDirty(i);
+        if ((newSize = size - 1) > i) {
             System.arraycopy(elements, i + 1, elements, i, newSize - i);
+            if (dirty != null)
+                System.arraycopy(dirty, i + 1, dirty, i, newSize - i);
+        }
         elements[size = newSize] = null;
+        if (dirty != null)
+            dirty[newSize] = false;
     }
 
     /**
@@ -169,12 +195,18 @@ public class MyArrayList<T> {
         System.arraycopy(elementData, index, elementData, index + 1, size - index);
         elementData[index] = element;
         size++;
+        if (dirty != null) {
+            System.arraycopy(dirty, index, dirty, index + 1, size - 1 - index);
+            dirty[index] = false;
+            markDirty(index);
+        }
     }
 
     /**
      * Removes all elements from the list.
      */
     public void clear() {
+        markSorted();
         final Object[] localElems = elementData;
         for (int start = size, i = size = 0; i < start; i++)
             localElems[i] = null;
@@ -190,6 +222,7 @@ public class MyArrayList<T> {
     public void replace(T element, int index) {
         rangeCheck(index);
         elementData[index] = element;
+        markDirty(index);
     }
 
     /**
@@ -199,8 +232,124 @@ public class MyArrayList<T> {
      */
     public void ensureCapacity(int minCapacity) {
         if (minCapacity > elementData.length) {
-            int newCapacity = elementData.length + (elementData.length >> 1);
+            int newCapacity = newCapacity(elementData.length, minCapacity);
             elementData = Arrays.copyOf(elementData, newCapacity);
+            if (dirty != null)
+                dirty = Arrays.copyOf(dirty, newCapacity);
+        }
+    }
+
+    /**
+     * Computes the capacity to grow an array to: one and a half times the old capacity,
+     * but never less than the required minimum.
+     *
+     * @param oldCapacity the current capacity
+     * @param minCapacity the desired minimum capacity
+     * @return the new capacity
+     */
+    static int newCapacity(int oldCapacity, int minCapacity) {
+        return Math.max(oldCapacity + (oldCapacity >> 1), minCapacity);
+    }
+
+    /**
+     * Starts tracking the positions modified since the last sort, so that
+     * {@link MyCollections#resort(MyArrayList, Comparator)} can re-sort only those elements.
+     * All current elements count as modified until the list is next sorted.
+     */
+    public void enableChangeTracking() {
+        if (dirty == null) {
+            dirty = new boolean[elementData.length];
+            Arrays.fill(dirty, 0, size, true);
+            dirtyCount = size;
+        }
+    }
+
+    /**
+     * Checks if the list tracks the positions modified since the last sort.
+     *
+     * @return {@code true} if change tracking is enabled; {@code false} otherwise
+     */
+    public boolean isChangeTrackingEnabled() {
+        return dirty != null;
+    }
+
+    /**
+     * Replaces the element at the specified index without marking the position as modified.
+     * Used by {@link MyCollections} to move elements while sorting.
+     *
+     * @param element the new element
+     * @param index   the index of the element to replace
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    void replaceUnmarked(T element, int index) {
+        rangeCheck(index);
+        elementData[index] = element;
+    }
+
+    /**
+     * Overwrites all elements with the sorted elements of the given array and marks the list as sorted.
+     *
+     * @param sorted the elements in sorted order, exactly {@link #size()} of them
+     */
+    void setAllSorted(Object[] sorted) {
+        System.arraycopy(sorted, 0, elementData, 0, size);
+        markSorted();
+    }
+
+    /**
+     * Marks the whole list as sorted, clearing all modified positions.
+     * Called by {@link MyCollections} after the list has been sorted.
+     */
+    void markSorted() {
+        if (dirtyCount > 0) {
+            Arrays.fill(dirty, 0, size, false);
+            dirtyCount = 0;
+        }
+    }
+
+    /**
+     * Returns the number of positions modified since the last sort.
+     * Without change tracking every position counts as modified.
+     *
+     * @return the number of modified positions
+     */
+    int dirtyCount() {
+        return dirty == null ? size : dirtyCount;
+    }
+
+    /**
+     * Checks if the element at the specified index was modified since the last sort.
+     * Without change tracking every position counts as modified.
+     *
+     * @param index the index to check
+     * @return {@code true} if the element was added or replaced since the last sort
+     */
+    boolean isDirty(int index) {
+        return dirty == null || dirty[index];
+    }
+
+    /**
+     * Marks the position at the specified index as modified.
+     *
+     * @param index the index of the modified element
+     */
+    private void markDirty(int index) {
+        if (dirty != null && !dirty[index]) {
+            dirty[index] = true;
+            dirtyCount++;
+        }
+    }
+
+    /**
+     * Drops the modified mark of an element that is about to be removed.
+     * Removing an element never breaks the order of the remaining ones.
+     *
+     * @param index the index of the removed element
+     */
+    private void unmarkDirty(int index) {
+        if (dirty != null && dirty[index]) {
+            dirty[index] = false;
+            dirtyCount--;
         }
     }
 
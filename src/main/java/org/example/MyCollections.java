@@ -1,13 +1,71 @@
 package org.example;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntBinaryOperator;
 
 /**
  * Utility class for working with custom implementations of lists.
- * Provides methods for sorting a custom `MyArrayList` using different approaches.
+ * Provides methods for sorting a custom `MyArrayList` using different approaches,
+ * including incremental re-sorting of lists that changed only slightly since the last sort
+ * and adaptive sorting that picks an algorithm based on the shape of the input.
  */
 public class MyCollections {
 
+    /**
+     * Lists of at most this many elements are sorted by insertion sort; also the partition size
+     * below which three-way quick sort finishes with insertion sort.
+     * Measured with {@code SortCalibrationBenchmark}: insertion sort stops winning between 32 and 48 elements.
+     */
+    static final int INSERTION_THRESHOLD = 32;
+    /**
+     * Run-merge sort is chosen when the list has at most {@code size / RUN_MERGE_DIVISOR} runs,
+     * counting both non-descending and strictly descending runs.
+     * Measured with {@code SortCalibrationBenchmark}: run merging ties the other sorts at {@code size / 2}
+     * runs and is ahead from {@code size / 4} on.
+     */
+    static final int RUN_MERGE_DIVISOR = 4;
+    /**
+     * Minimum size of a list of integers in natural order to be sorted by radix sort.
+     * Measured with {@code SortCalibrationBenchmark}: radix sort ties at 300 elements and is ahead from 1000 on.
+     */
+    static final int RADIX_THRESHOLD = 1_000;
+    /**
+     * Minimum estimated duplicate ratio at which three-way quick sort is preferred over parallel sort,
+     * i.e. at least 100 copies of each key on average. Not measured: the calibration machine had a single
+     * core, where parallel sort is a sequential merge sort. Re-measure with {@code SortCalibrationBenchmark}
+     * on multi-core hardware.
+     */
+    static final double DUPLICATE_THRESHOLD = 0.99;
+    /**
+     * Minimum size of a list to be sorted in parallel. Parallel sort is only chosen when the common
+     * fork-join pool has more than one thread; re-measure with {@code SortCalibrationBenchmark}
+     * on multi-core hardware.
+     */
+    static final int PARALLEL_THRESHOLD = 100_000;
+    /**
+     * Maximum number of evenly spaced elements sampled to estimate the number of distinct keys.
+     */
+    private static final int DISTINCT_SAMPLE = 4096;
+    /**
+     * Largest share of sampled keys seen only once for which the sample is trusted to bound
+     * the number of distinct keys.
+     */
+    private static final double MAX_SINGLETON_SHARE = 0.1;
+    /**
+     * Natural order comparator that reports elements not implementing {@link Comparable}
+     * the same way as {@link #sort(MyArrayList)}.
+     */
+    @SuppressWarnings("unchecked")
+    private static final Comparator<Object> NATURAL_ORDER = (first, second) -> {
+        if (!(first instanceof Comparable)) {
+            throw new ClassCastException("Element does not implement Comparable: " + first);
+        }
+        return ((Comparable<Object>) first).compareTo(second);
+    };
+
     /**
      * Sorts the given list using the specified comparator.
      *
@@ -18,6 +76,87 @@ public class MyCollections {
      */
     public static <T> void sort(MyArrayList<T> list, Comparator<? super T> comparator) {
         quickSort(list, comparator, 0, list.size() - 1);
+        list.markSorted();
+    }
+
+    /**
+     * Re-sorts a list that was previously sorted with the same comparator and has since
+     * been modified through {@code add}, {@code replace} or {@code remove}.
+     *
+     * <p>Only the elements added or replaced since the last sort are sorted, with a merge sort that
+     * cannot degrade; they are then merged with the untouched, already ordered elements. For
+     * {@code k} changed elements this takes O(n + k log k) instead of the O(n log n) of a full
+     * {@link #sort(MyArrayList, Comparator)}.
+     * Only lists with {@link MyArrayList#enableChangeTracking() change tracking} know which elements
+     * changed; other lists, and tracked lists that were never sorted, are sorted entirely.
+     *
+     * @param list       the list to be re-sorted
+     * @param comparator the comparator the list was last sorted with
+     * @param <T>        the type of elements in the list
+     * @throws NullPointerException if the list or comparator is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void resort(MyArrayList<T> list, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        int changedCount = list.dirtyCount();
+        if (changedCount > 0) {
+            Object[] elements = list.toArray();
+            Object[] changed = new Object[changedCount];
+            for (int i = 0, k = 0; i < elements.length; i++) {
+                if (list.isDirty(i))
+                    changed[k++] = elements[i];
+            }
+            runMergeSort(changed, (Comparator<Object>) comparator);
+            mergeChanged(list, elements, changed, (Comparator<Object>) comparator);
+        }
+        list.markSorted();
+    }
+
+    /**
+     * Merges the sorted changed elements with the unchanged elements of the list, which are
+     * already in order, and writes the result back to the list.
+     *
+     * @param list       the list whose elements are to be merged
+     * @param elements   a snapshot of the list elements
+     * @param changed    the changed elements, sorted
+     * @param comparator the comparator to determine the order of the elements
+     * @param <T>        the type of elements in the list
+     */
+    private static <T> void mergeChanged(MyArrayList<T> list,
+                                         Object[] elements,
+                                         Object[] changed,
+                                         Comparator<Object> comparator) {
+        int size = elements.length;
+        Object[] merged = new Object[size];
+        int clean = nextClean(list, 0);
+        int dirty = 0;
+        int out = 0;
+        while (clean < size && dirty < changed.length) {
+            if (comparator.compare(changed[dirty], elements[clean]) < 0) {
+                merged[out++] = changed[dirty++];
+            } else {
+                merged[out++] = elements[clean];
+                clean = nextClean(list, clean + 1);
+            }
+        }
+        for (; clean < size; clean = nextClean(list, clean + 1))
+            merged[out++] = elements[clean];
+        while (dirty < changed.length)
+            merged[out++] = changed[dirty++];
+        list.setAllSorted(merged);
+    }
+
+    /**
+     * Returns the first index not less than {@code index} whose element was not changed since the last sort.
+     *
+     * @param list  the list being re-sorted
+     * @param index the candidate index
+     * @return the next unchanged index, or the list size if there is none
+     */
+    private static int nextClean(MyArrayList<?> list, int index) {
+        while (index < list.size() && list.isDirty(index))
+            index++;
+        return index;
     }
 
     /**
@@ -31,6 +170,465 @@ public class MyCollections {
      */
     public static <T> void sort(MyArrayList<T> list) {
         quickSortComparable(list, 0, list.size() - 1);
+        list.markSorted();
+    }
+
+    /**
+     * Sorts the given list using the specified comparator, choosing the algorithm from a profile
+     * of the input: its size, the number of non-descending or strictly descending runs, an estimate
+     * of the duplicate ratio and
+     * whether it holds only {@link Integer} values compared in natural order.
+     *
+     * @param list       the list to be sorted
+     * @param comparator the comparator to determine the order of the list
+     * @param <T>        the type of elements in the list
+     * @return the strategy that ran, the reason it was chosen and the input profile
+     * @throws NullPointerException if the list or comparator is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> SortStats adaptiveSort(MyArrayList<T> list, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        return adaptiveSort(list, (Comparator<Object>) comparator, comparator == Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts the given list in its natural order, choosing the algorithm from a profile of the input.
+     * Elements in the list must implement the {@link Comparable} interface.
+     *
+     * @param list the list to be sorted
+     * @param <T>  the type of elements in the list
+     * @return the strategy that ran, the reason it was chosen and the input profile
+     * @throws ClassCastException   if any element in the list does not implement {@link Comparable}
+     * @throws NullPointerException if the list is null
+     * @see #adaptiveSort(MyArrayList, Comparator)
+     */
+    public static <T> SortStats adaptiveSort(MyArrayList<T> list) {
+        return adaptiveSort(list, NATURAL_ORDER, true);
+    }
+
+    /**
+     * Profiles the list, sorts a copy of its elements with the chosen strategy and writes them back.
+     *
+     * @param list         the list to be sorted
+     * @param comparator   the comparator to determine the order of the list
+     * @param naturalOrder whether the comparator is the natural order
+     * @param <T>          the type of elements in the list
+     * @return the profile and the chosen strategy
+     */
+    private static <T> SortStats adaptiveSort(MyArrayList<T> list,
+                                              Comparator<Object> comparator,
+                                              boolean naturalOrder) {
+        Object[] elements = list.toArray();
+        SortStats stats = profile(elements, comparator, naturalOrder);
+        sortArray(elements, comparator, stats.strategy(), stats.runs());
+        list.setAllSorted(elements);
+        return stats;
+    }
+
+    /**
+     * Profiles the elements and chooses a sorting strategy for them.
+     *
+     * @param elements     the elements to be sorted
+     * @param comparator   the comparator to determine the order of the elements
+     * @param naturalOrder whether the comparator is the natural order
+     * @return the profile and the chosen strategy
+     */
+    static SortStats profile(Object[] elements, Comparator<Object> comparator, boolean naturalOrder) {
+        int size = elements.length;
+        int runs = countRuns(elements, comparator);
+        boolean integerKeys = naturalOrder;
+        for (int i = 0; integerKeys && i < size; i++) {
+            if (!(elements[i] instanceof Integer))
+                integerKeys = false;
+        }
+        int distinctKeys = distinctKeys(elements, comparator);
+        double duplicateRatio = size == 0 ? 0 : 1 - (double) distinctKeys / size;
+
+        SortStats.Strategy strategy;
+        String reason;
+        if (size <= INSERTION_THRESHOLD) {
+            strategy = SortStats.Strategy.INSERTION;
+            reason = String.format("size %d <= %d", size, INSERTION_THRESHOLD);
+        } else if (runs <= size / RUN_MERGE_DIVISOR) {
+            strategy = SortStats.Strategy.RUN_MERGE;
+            reason = String.format("%d runs <= size / %d", runs, RUN_MERGE_DIVISOR);
+        } else if (integerKeys && size >= RADIX_THRESHOLD) {
+            strategy = SortStats.Strategy.RADIX;
+            reason = String.format("integer keys, size %d >= %d", size, RADIX_THRESHOLD);
+        } else if (duplicateRatio >= DUPLICATE_THRESHOLD) {
+            strategy = SortStats.Strategy.THREE_WAY_QUICKSORT;
+            reason = String.format("about %d distinct keys, duplicate ratio %.3f >= %.3f",
+                    distinctKeys, duplicateRatio, DUPLICATE_THRESHOLD);
+        } else if (size >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            strategy = SortStats.Strategy.PARALLEL;
+            reason = String.format("size %d >= %d, %d threads", size, PARALLEL_THRESHOLD,
+                    ForkJoinPool.getCommonPoolParallelism());
+        } else {
+            strategy = SortStats.Strategy.THREE_WAY_QUICKSORT;
+            reason = "no exploitable structure";
+        }
+        return new SortStats(strategy, reason, size, runs, distinctKeys, duplicateRatio, integerKeys);
+    }
+
+    /**
+     * Estimates the number of distinct keys from an evenly spaced sample of the elements.
+     *
+     * <p>When at most {@link #MAX_SINGLETON_SHARE} of the sampled keys are seen only once, the sample
+     * shows repeats and the bias-corrected Chao1 estimate is used: the sampled keys plus
+     * {@code f1 (f1 - 1) / (2 (f2 + 1))} unseen ones, where {@code f1} and {@code f2} count keys seen
+     * once and twice. Otherwise the sample cannot bound the number of keys, so keys seen once are scaled
+     * linearly to the whole array. Such input then never reaches a duplicate ratio above
+     * {@code 1 - MAX_SINGLETON_SHARE}, so mostly unique keys are not taken for duplicates at any size.
+     *
+     * @param elements   the elements to be sampled
+     * @param comparator the comparator to determine the order of the elements
+     * @return the estimated number of distinct keys
+     */
+    private static int distinctKeys(Object[] elements, Comparator<Object> comparator) {
+        int size = elements.length;
+        int sampleSize = Math.min(DISTINCT_SAMPLE, size / 8);
+        if (sampleSize < 2)
+            return size;
+        Object[] sample = new Object[sampleSize];
+        for (int i = 0; i < sampleSize; i++)
+            sample[i] = elements[(int) ((long) i * size / sampleSize)];
+        threeWayQuickSort(sample, 0, sampleSize - 1, comparator);
+        int distinct = 0;
+        int singletons = 0;
+        int doubletons = 0;
+        for (int start = 0, end; start < sampleSize; start = end) {
+            end = start + 1;
+            while (end < sampleSize && comparator.compare(sample[start], sample[end]) == 0)
+                end++;
+            distinct++;
+            if (end - start == 1)
+                singletons++;
+            else if (end - start == 2)
+                doubletons++;
+        }
+        double estimate;
+        if (singletons <= MAX_SINGLETON_SHARE * sampleSize) {
+            estimate = distinct + (double) singletons * (singletons - 1) / (2.0 * (doubletons + 1));
+        } else {
+            estimate = (double) singletons * size / sampleSize + (distinct - singletons);
+        }
+        return (int) Math.min(size, Math.round(estimate));
+    }
+
+    /**
+     * Sorts an array with the given strategy.
+     *
+     * @param elements   the elements to be sorted
+     * @param comparator the comparator to determine the order of the elements
+     * @param strategy   the sorting algorithm to apply; {@link SortStats.Strategy#RADIX}
+     *                   requires all elements to be {@link Integer} in natural order
+     */
+    static void sortArray(Object[] elements, Comparator<Object> comparator, SortStats.Strategy strategy) {
+        int runs = strategy == SortStats.Strategy.RUN_MERGE ? countRuns(elements, comparator) : 0;
+        sortArray(elements, comparator, strategy, runs);
+    }
+
+    /**
+     * Sorts an array with the given strategy, reusing a run count that is already known.
+     *
+     * @param elements   the elements to be sorted
+     * @param comparator the comparator to determine the order of the elements
+     * @param strategy   the sorting algorithm to apply
+     * @param runs       the number of runs in the array as counted by {@link #countRuns(Object[], Comparator)};
+     *                   only used by {@link SortStats.Strategy#RUN_MERGE}
+     */
+    private static void sortArray(Object[] elements, Comparator<Object> comparator,
+                                  SortStats.Strategy strategy, int runs) {
+        switch (strategy) {
+            case INSERTION -> insertionSort(elements, 0, elements.length - 1, comparator);
+            case THREE_WAY_QUICKSORT -> threeWayQuickSort(elements, 0, elements.length - 1, comparator);
+            case RUN_MERGE -> runMergeSort(elements, comparator, runs);
+            case RADIX -> radixSort(elements);
+            case PARALLEL -> Arrays.parallelSort(elements, comparator);
+        }
+    }
+
+    /**
+     * Performs an insertion sort on a range of an array.
+     *
+     * @param elements   the elements to be sorted
+     * @param low        the starting index
+     * @param high       the ending index
+     * @param comparator the comparator to determine the order of the elements
+     */
+    private static void insertionSort(Object[] elements, int low, int high, Comparator<Object> comparator) {
+        for (int i = low + 1; i <= high; i++) {
+            Object current = elements[i];
+            int j = i - 1;
+            while (j >= low && comparator.compare(elements[j], current) > 0) {
+                elements[j + 1] = elements[j];
+                j--;
+            }
+            elements[j + 1] = current;
+        }
+    }
+
+    /**
+     * Performs a three-way quick sort on a range of an array, using the middle element as the pivot
+     * and finishing small partitions with insertion sort.
+     *
+     * @param elements   the elements to be sorted
+     * @param low        the starting index
+     * @param high       the ending index
+     * @param comparator the comparator to determine the order of the elements
+     */
+    private static void threeWayQuickSort(Object[] elements, int low, int high, Comparator<Object> comparator) {
+        while (high - low >= INSERTION_THRESHOLD) {
+            Object pivot = elements[(low + high) >>> 1];
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                int cmp = comparator.compare(elements[i], pivot);
+                if (cmp < 0) {
+                    swap(elements, lt++, i++);
+                } else if (cmp > 0) {
+                    swap(elements, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (lt - low < high - gt) {
+                threeWayQuickSort(elements, low, lt - 1, comparator);
+                low = gt + 1;
+            } else {
+                threeWayQuickSort(elements, gt + 1, high, comparator);
+                high = lt - 1;
+            }
+        }
+        insertionSort(elements, low, high, comparator);
+    }
+
+    /**
+     * Counts the runs of an array: maximal non-descending or strictly descending sequences.
+     *
+     * @param elements   the elements to be scanned
+     * @param comparator the comparator to determine the order of the elements
+     * @return the number of runs
+     */
+    private static int countRuns(Object[] elements, Comparator<Object> comparator) {
+        int runs = 0;
+        for (int start = 0; start < elements.length; start = runEnd(elements, start, comparator))
+            runs++;
+        return runs;
+    }
+
+    /**
+     * Finds the end of the run starting at the given index. A run is either non-descending or, if its
+     * first two elements are descending, strictly descending, so reversing it keeps the sort stable.
+     *
+     * @param elements   the elements to be scanned
+     * @param start      the first index of the run
+     * @param comparator the comparator to determine the order of the elements
+     * @return the index after the last element of the run
+     */
+    private static int runEnd(Object[] elements, int start, Comparator<Object> comparator) {
+        int end = start + 1;
+        if (end == elements.length)
+            return end;
+        if (comparator.compare(elements[start], elements[end++]) > 0) {
+            while (end < elements.length && comparator.compare(elements[end - 1], elements[end]) > 0)
+                end++;
+        } else {
+            while (end < elements.length && comparator.compare(elements[end - 1], elements[end]) <= 0)
+                end++;
+        }
+        return end;
+    }
+
+    /**
+     * Performs a stable merge sort that starts from the runs already present in the array,
+     * taking O(n log r) time for {@code r} runs.
+     *
+     * @param elements   the elements to be sorted
+     * @param comparator the comparator to determine the order of the elements
+     */
+    private static void runMergeSort(Object[] elements, Comparator<Object> comparator) {
+        runMergeSort(elements, comparator, countRuns(elements, comparator));
+    }
+
+    /**
+     * Performs a stable merge sort that starts from the runs already present in the array,
+     * reversing strictly descending runs first.
+     *
+     * @param elements   the elements to be sorted
+     * @param comparator the comparator to determine the order of the elements
+     * @param runs       the number of runs as counted by {@link #countRuns(Object[], Comparator)}
+     */
+    private static void runMergeSort(Object[] elements, Comparator<Object> comparator, int runs) {
+        int size = elements.length;
+        int[] bounds = new int[runs + 1];
+        int count = 0;
+        for (int start = 0, end; start < size; start = end) {
+            end = runEnd(elements, start, comparator);
+            if (end - start > 1 && comparator.compare(elements[start], elements[start + 1]) > 0)
+                reverse(elements, start, end - 1);
+            bounds[count++] = start;
+        }
+        bounds[count] = size;
+
+        Object[] source = elements;
+        Object[] target = new Object[size];
+        while (count > 1) {
+            int merged = 0;
+            for (int run = 0; run < count; run += 2) {
+                int low = bounds[run];
+                if (run + 1 == count) {
+                    System.arraycopy(source, low, target, low, size - low);
+                } else {
+                    merge(source, target, low, bounds[run + 1], bounds[run + 2], comparator);
+                }
+                bounds[merged++] = low;
+            }
+            bounds[merged] = size;
+            count = merged;
+            Object[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != elements)
+            System.arraycopy(source, 0, elements, 0, size);
+    }
+
+    /**
+     * Reverses a range of an array in place.
+     *
+     * @param elements the array whose range is to be reversed
+     * @param low      the starting index
+     * @param high     the ending index
+     */
+    private static void reverse(Object[] elements, int low, int high) {
+        while (low < high)
+            swap(elements, low++, high--);
+    }
+
+    /**
+     * Merges the sorted ranges {@code [low, mid)} and {@code [mid, high)} of one array into another,
+     * keeping equal elements in their original order.
+     *
+     * @param source     the array holding the ranges to merge
+     * @param target     the array receiving the merged range
+     * @param low        the start of the first range, inclusive
+     * @param mid        the start of the second range, inclusive
+     * @param high       the end of the second range, exclusive
+     * @param comparator the comparator to determine the order of the elements
+     */
+    private static void merge(Object[] source, Object[] target,
+                              int low, int mid, int high,
+                              Comparator<Object> comparator) {
+        int left = low;
+        int right = mid;
+        for (int out = low; out < high; out++) {
+            if (right >= high || (left < mid && comparator.compare(source[left], source[right]) <= 0)) {
+                target[out] = source[left++];
+            } else {
+                target[out] = source[right++];
+            }
+        }
+    }
+
+    /**
+     * Performs an LSD radix sort on an array of {@link Integer}, one byte per pass.
+     *
+     * @param elements the elements to be sorted
+     * @throws ClassCastException if any element is not an {@link Integer}
+     */
+    private static void radixSort(Object[] elements) {
+        int size = elements.length;
+        int[] keys = new int[size];
+        int[] buffer = new int[size];
+        for (int i = 0; i < size; i++)
+            keys[i] = (Integer) elements[i] ^ Integer.MIN_VALUE;
+        int[] offsets = new int[257];
+        for (int shift = 0; shift < Integer.SIZE; shift += 8) {
+            Arrays.fill(offsets, 0);
+            for (int key : keys)
+                offsets[((key >>> shift) & 0xFF) + 1]++;
+            for (int digit = 0; digit < 256; digit++)
+                offsets[digit + 1] += offsets[digit];
+            for (int key : keys)
+                buffer[offsets[(key >>> shift) & 0xFF]++] = key;
+            int[] swap = keys;
+            keys = buffer;
+            buffer = swap;
+        }
+        for (int i = 0; i < size; i++)
+            elements[i] = keys[i] ^ Integer.MIN_VALUE;
+    }
+
+    /**
+     * Sorts all columns of the given columnar list by the natural order of one key column.
+     *
+     * <p>Only the key column is compared; the resulting row permutation is then applied to every
+     * column, so each column array is traversed sequentially once.
+     *
+     * @param list   the list to be sorted
+     * @param column the name of the key column
+     * @param <R>    the record type stored in the list
+     * @throws IllegalArgumentException if the record type has no such column, or the column is null
+     * @throws ClassCastException       if the key column values do not implement {@link Comparable}
+     * @throws NullPointerException     if the list is null
+     */
+    public static <R extends Record> void sort(MyColumnarList<R> list, String column) {
+        MyColumnarList.Column key = list.column(list.columnIndex(column));
+        list.permute(sortedOrder(list.size(), key::compare));
+    }
+
+    /**
+     * Returns the permutation of row indices {@code 0..size-1} that orders the rows
+     * by the given row comparator.
+     *
+     * @param size       the number of rows
+     * @param comparator compares two rows by their indices
+     * @return the row indices in sorted order
+     */
+    static int[] sortedOrder(int size, IntBinaryOperator comparator) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++)
+            order[i] = i;
+        quickSortOrder(order, comparator, 0, size - 1);
+        return order;
+    }
+
+    /**
+     * Performs a three-way quick sort on an array of row indices.
+     * The middle element is used as the pivot and the smaller partition is sorted recursively,
+     * so already sorted and duplicate-heavy columns do not degrade to quadratic time or deep recursion.
+     *
+     * @param order      the row indices to be sorted
+     * @param comparator compares two rows by their indices
+     * @param low        the starting index
+     * @param high       the ending index
+     */
+    private static void quickSortOrder(int[] order, IntBinaryOperator comparator, int low, int high) {
+        while (low < high) {
+            int pivot = order[(low + high) >>> 1];
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                int cmp = comparator.applyAsInt(order[i], pivot);
+                if (cmp < 0) {
+                    swap(order, lt++, i++);
+                } else if (cmp > 0) {
+                    swap(order, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (lt - low < high - gt) {
+                quickSortOrder(order, comparator, low, lt - 1);
+                low = gt + 1;
+            } else {
+                quickSortOrder(order, comparator, gt + 1, high);
+                high = lt - 1;
+            }
+        }
     }
 
     /**
@@ -142,8 +740,34 @@ public class MyCollections {
      */
     private static <T> void swap(MyArrayList<T> list, int i, int j) {
         T temp = list.get(i);
-        list.replace(list.get(j), i);
-        list.replace(temp, j);
+        list.replaceUnmarked(list.get(j), i);
+        list.replaceUnmarked(temp, j);
+    }
+
+    /**
+     * Swaps two elements in an array.
+     *
+     * @param elements the array in which elements are to be swapped
+     * @param i        the index of the first element
+     * @param j        the index of the second element
+     */
+    private static void swap(Object[] elements, int i, int j) {
+        Object temp = elements[i];
+        elements[i] = elements[j];
+        elements[j] = temp;
+    }
+
+    /**
+     * Swaps two elements in an array of row indices.
+     *
+     * @param order the array in which elements are to be swapped
+     * @param i     the index of the first element
+     * @param j     the index of the second element
+     */
+    private static void swap(int[] order, int i, int j) {
+        int temp = order[i];
+        order[i] = order[j];
+        order[j] = temp;
     }
 
 }
@@ -0,0 +1,598 @@
+package org.example;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+
+/**
+ * A column-oriented list of records.
+ *
+ * <p>Instead of keeping one object per row like {@link MyArrayList}, this list stores every
+ * component of the record type in its own array. Components of type {@code int}, {@code long}
+ * and {@code double} are kept in primitive arrays; all other components are kept in an
+ * {@code Object[]}. Scanning or sorting by a single field therefore touches one contiguous array
+ * instead of following a reference per element.
+ *
+ * <p>Rows are materialized into record instances only on demand through {@link #get(int)};
+ * single fields can be read without creating a record through the typed getters.
+ *
+ * @param <R> the record type stored in this list
+ */
+public class MyColumnarList<R extends Record> {
+    /**
+     * Default initial capacity of the list.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * The record type stored in this list.
+     */
+    private final Class<R> type;
+    /**
+     * The canonical constructor of the record type, used to materialize rows.
+     */
+    private final Constructor<R> constructor;
+    /**
+     * Names of the columns, in record component order.
+     */
+    private final String[] names;
+    /**
+     * Storage for each column, in record component order.
+     */
+    private final Column[] columns;
+    /**
+     * The capacity shared by all columns.
+     */
+    private int capacity;
+    /**
+     * The number of rows currently in the list.
+     */
+    private int size;
+
+    /**
+     * Creates a list for the given record type with the default capacity.
+     *
+     * @param type the record type stored in this list
+     * @throws IllegalArgumentException if the record components are not accessible
+     */
+    public MyColumnarList(Class<R> type) {
+        this(type, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a list for the given record type with the specified initial capacity.
+     *
+     * @param type            the record type stored in this list
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the initial capacity is negative
+     *                                  or the record components are not accessible
+     */
+    public MyColumnarList(Class<R> type, int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " +
+                    initialCapacity);
+        }
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] componentTypes = new Class<?>[components.length];
+        this.type = type;
+        this.names = new String[components.length];
+        this.columns = new Column[components.length];
+        this.capacity = initialCapacity;
+        try {
+            for (int i = 0; i < components.length; i++) {
+                Method accessor = components[i].getAccessor();
+                accessor.setAccessible(true);
+                componentTypes[i] = components[i].getType();
+                names[i] = components[i].getName();
+                columns[i] = Column.of(componentTypes[i], accessor, initialCapacity);
+            }
+            this.constructor = type.getDeclaredConstructor(componentTypes);
+            this.constructor.setAccessible(true);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("Cannot access record type: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return {@code true} if the list is empty; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of rows in the list.
+     *
+     * @return the number of rows in the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a record to the end of the list, splitting it into its columns.
+     *
+     * @param row the record to be added
+     * @throws NullPointerException if the record is null
+     */
+    public void add(R row) {
+        ensureCapacity(size + 1);
+        for (Column column : columns) {
+            column.set(size, column.read(row));
+        }
+        size++;
+    }
+
+    /**
+     * Materializes the row at the specified index as a new record instance.
+     *
+     * @param index the index of the row to retrieve
+     * @return a record holding the values of the row
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public R get(int index) {
+        rangeCheck(index);
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = columns[i].get(index);
+        }
+        try {
+            return constructor.newInstance(values);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Record constructor failed for " + type.getName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create record " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Returns the index of the column with the specified name.
+     *
+     * @param name the name of the record component
+     * @return the index of the column
+     * @throws IllegalArgumentException if the record type has no such component
+     */
+    public int columnIndex(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name))
+                return i;
+        }
+        throw new IllegalArgumentException("Unknown column: " + name);
+    }
+
+    /**
+     * Reads a value from an {@code int} column.
+     *
+     * @param index  the index of the row
+     * @param column the index of the column
+     * @return the value at the specified row
+     * @throws IndexOutOfBoundsException if the row or column index is out of range
+     * @throws ClassCastException        if the column is not of type {@code int}
+     */
+    public int getInt(int index, int column) {
+        rangeCheck(index);
+        return column(column, IntColumn.class).values[index];
+    }
+
+    /**
+     * Reads a value from a {@code long} column.
+     *
+     * @param index  the index of the row
+     * @param column the index of the column
+     * @return the value at the specified row
+     * @throws IndexOutOfBoundsException if the row or column index is out of range
+     * @throws ClassCastException        if the column is not of type {@code long}
+     */
+    public long getLong(int index, int column) {
+        rangeCheck(index);
+        return column(column, LongColumn.class).values[index];
+    }
+
+    /**
+     * Reads a value from a {@code double} column.
+     *
+     * @param index  the index of the row
+     * @param column the index of the column
+     * @return the value at the specified row
+     * @throws IndexOutOfBoundsException if the row or column index is out of range
+     * @throws ClassCastException        if the column is not of type {@code double}
+     */
+    public double getDouble(int index, int column) {
+        rangeCheck(index);
+        return column(column, DoubleColumn.class).values[index];
+    }
+
+    /**
+     * Reads a value from any column, boxing primitive values.
+     *
+     * @param index  the index of the row
+     * @param column the index of the column
+     * @return the value at the specified row
+     * @throws IndexOutOfBoundsException if the row or column index is out of range
+     */
+    public Object getObject(int index, int column) {
+        rangeCheck(index);
+        return column(column).get(index);
+    }
+
+    /**
+     * Removes all rows from the list.
+     */
+    public void clear() {
+        for (Column column : columns) {
+            column.clear(size);
+        }
+        size = 0;
+    }
+
+    /**
+     * Ensures that every column has enough capacity to hold the specified minimum number of rows.
+     * Columns grow in the same way as {@link MyArrayList#ensureCapacity(int)}.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity) {
+            capacity = MyArrayList.newCapacity(capacity, minCapacity);
+            for (Column column : columns) {
+                column.grow(capacity);
+            }
+        }
+    }
+
+    /**
+     * Returns the storage of the column with the specified index.
+     *
+     * @param column the index of the column
+     * @return the column storage
+     * @throws IndexOutOfBoundsException if the column index is out of range
+     */
+    Column column(int column) {
+        if (column < 0 || column >= columns.length)
+            throw new IndexOutOfBoundsException(
+                    String.format("Column %d, Columns %d", column, columns.length));
+        return columns[column];
+    }
+
+    /**
+     * Reorders all columns so that the row at position {@code i} becomes the row
+     * previously at position {@code order[i]}.
+     *
+     * @param order the permutation of row indices, of length {@link #size()}
+     */
+    void permute(int[] order) {
+        for (Column column : columns) {
+            column.permute(order, size);
+        }
+    }
+
+    /**
+     * Returns the storage of a column, checking that it has the expected kind.
+     *
+     * @param column the index of the column
+     * @param kind   the expected column storage class
+     * @param <C>    the column storage type
+     * @return the column storage
+     * @throws ClassCastException if the column is of a different kind
+     */
+    private <C extends Column> C column(int column, Class<C> kind) {
+        Column storage = column(column);
+        if (!kind.isInstance(storage)) {
+            throw new ClassCastException(String.format("Column %s is of type %s",
+                    names[column], storage.type().getName()));
+        }
+        return kind.cast(storage);
+    }
+
+    /**
+     * Checks if the row index is within the valid range.
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void rangeCheck(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(
+                    String.format("Index %d, Size %d", index, size));
+    }
+
+    /**
+     * Storage for a single column of a {@link MyColumnarList}.
+     */
+    abstract static class Column {
+        /**
+         * The record accessor for the component stored in this column.
+         */
+        private final Method accessor;
+
+        Column(Method accessor) {
+            this.accessor = accessor;
+        }
+
+        /**
+         * Creates column storage suited for the given component type.
+         *
+         * @param type     the record component type
+         * @param accessor the record accessor for the component
+         * @param capacity the initial capacity
+         * @return the column storage
+         */
+        static Column of(Class<?> type, Method accessor, int capacity) {
+            if (type == int.class)
+                return new IntColumn(accessor, capacity);
+            if (type == long.class)
+                return new LongColumn(accessor, capacity);
+            if (type == double.class)
+                return new DoubleColumn(accessor, capacity);
+            return new ObjectColumn(type, accessor, capacity);
+        }
+
+        /**
+         * Reads this column's component from a record.
+         *
+         * @param row the record
+         * @return the component value
+         */
+        Object read(Object row) {
+            try {
+                return accessor.invoke(row);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("Record accessor failed: " + accessor.getName(), e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access record component: " + accessor.getName(), e);
+            }
+        }
+
+        /**
+         * Returns the record component type stored in this column.
+         *
+         * @return the component type
+         */
+        abstract Class<?> type();
+
+        /**
+         * Returns the value at the given index, boxing primitive values.
+         *
+         * @param index the row index
+         * @return the value
+         */
+        abstract Object get(int index);
+
+        /**
+         * Stores a value at the given index, unboxing primitive values.
+         *
+         * @param index the row index
+         * @param value the value
+         */
+        abstract void set(int index, Object value);
+
+        /**
+         * Compares the values of two rows in their natural order.
+         *
+         * @param i the index of the first row
+         * @param j the index of the second row
+         * @return a negative integer, zero, or a positive integer as the first value
+         * is less than, equal to, or greater than the second
+         * @throws ClassCastException if the values do not implement {@link Comparable}
+         */
+        abstract int compare(int i, int j);
+
+        /**
+         * Grows the backing array to the given capacity.
+         *
+         * @param capacity the new capacity
+         */
+        abstract void grow(int capacity);
+
+        /**
+         * Reorders the first {@code size} values according to the given permutation.
+         *
+         * @param order the permutation of row indices
+         * @param size  the number of rows
+         */
+        abstract void permute(int[] order, int size);
+
+        /**
+         * Releases references held by the first {@code size} values.
+         *
+         * @param size the number of rows
+         */
+        void clear(int size) {
+        }
+    }
+
+    /**
+     * Column storage for {@code int} components.
+     */
+    static final class IntColumn extends Column {
+        int[] values;
+
+        IntColumn(Method accessor, int capacity) {
+            super(accessor);
+            values = new int[capacity];
+        }
+
+        @Override
+        Class<?> type() {
+            return int.class;
+        }
+
+        @Override
+        Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        void set(int index, Object value) {
+            values[index] = (Integer) value;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return Integer.compare(values[i], values[j]);
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void permute(int[] order, int size) {
+            int[] sorted = new int[values.length];
+            for (int i = 0; i < size; i++)
+                sorted[i] = values[order[i]];
+            values = sorted;
+        }
+    }
+
+    /**
+     * Column storage for {@code long} components.
+     */
+    static final class LongColumn extends Column {
+        long[] values;
+
+        LongColumn(Method accessor, int capacity) {
+            super(accessor);
+            values = new long[capacity];
+        }
+
+        @Override
+        Class<?> type() {
+            return long.class;
+        }
+
+        @Override
+        Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        void set(int index, Object value) {
+            values[index] = (Long) value;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return Long.compare(values[i], values[j]);
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void permute(int[] order, int size) {
+            long[] sorted = new long[values.length];
+            for (int i = 0; i < size; i++)
+                sorted[i] = values[order[i]];
+            values = sorted;
+        }
+    }
+
+    /**
+     * Column storage for {@code double} components.
+     */
+    static final class DoubleColumn extends Column {
+        double[] values;
+
+        DoubleColumn(Method accessor, int capacity) {
+            super(accessor);
+            values = new double[capacity];
+        }
+
+        @Override
+        Class<?> type() {
+            return double.class;
+        }
+
+        @Override
+        Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        void set(int index, Object value) {
+            values[index] = (Double) value;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return Double.compare(values[i], values[j]);
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void permute(int[] order, int size) {
+            double[] sorted = new double[values.length];
+            for (int i = 0; i < size; i++)
+                sorted[i] = values[order[i]];
+            values = sorted;
+        }
+    }
+
+    /**
+     * Column storage for components of any other type, including other primitives in boxed form.
+     */
+    static final class ObjectColumn extends Column {
+        private final Class<?> type;
+        Object[] values;
+
+        ObjectColumn(Class<?> type, Method accessor, int capacity) {
+            super(accessor);
+            this.type = type;
+            values = new Object[capacity];
+        }
+
+        @Override
+        Class<?> type() {
+            return type;
+        }
+
+        @Override
+        Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        void set(int index, Object value) {
+            values[index] = value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        int compare(int i, int j) {
+            Object value = values[i];
+            if (!(value instanceof Comparable)) {
+                throw new ClassCastException("Element does not implement Comparable: " + value);
+            }
+            return ((Comparable<Object>) value).compareTo(values[j]);
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void permute(int[] order, int size) {
+            Object[] sorted = new Object[values.length];
+            for (int i = 0; i < size; i++)
+                sorted[i] = values[order[i]];
+            values = sorted;
+        }
+
+        @Override
+        void clear(int size) {
+            Arrays.fill(values, 0, size, null);
+        }
+    }
+}
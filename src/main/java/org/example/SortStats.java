@@ -0,0 +1,48 @@
+package org.example;
+
+/**
+ * Describes how {@link MyCollections#adaptiveSort(MyArrayList, java.util.Comparator)} sorted a list:
+ * the strategy that ran, why it was chosen and the input profile the choice was based on.
+ *
+ * @param strategy       the sorting algorithm that was applied
+ * @param reason         a short human-readable explanation of the choice
+ * @param size           the number of elements in the list
+ * @param runs           the number of non-descending or strictly descending runs found in the list
+ * @param distinctKeys   the estimated number of distinct keys in the list
+ * @param duplicateRatio the estimated share of elements that repeat an earlier key, from 0 to 1
+ * @param integerKeys    {@code true} if every element is an {@link Integer} sorted in natural order
+ */
+public record SortStats(Strategy strategy,
+                        String reason,
+                        int size,
+                        int runs,
+                        int distinctKeys,
+                        double duplicateRatio,
+                        boolean integerKeys) {
+
+    /**
+     * Sorting algorithms the dispatcher can choose from.
+     */
+    public enum Strategy {
+        /**
+         * Insertion sort, for very small lists.
+         */
+        INSERTION,
+        /**
+         * Three-way quick sort, the general-purpose choice; handles many equal elements in linear time.
+         */
+        THREE_WAY_QUICKSORT,
+        /**
+         * Merge of the runs already present in the list, for nearly sorted or reverse sorted input.
+         */
+        RUN_MERGE,
+        /**
+         * LSD radix sort, for large lists of {@link Integer} in natural order.
+         */
+        RADIX,
+        /**
+         * Parallel merge sort over all available processors, for very large lists.
+         */
+        PARALLEL
+    }
+}
@@ -227,4 +227,65 @@ public class MyArrayListTest {
         }
         assertEquals(0,list.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void growFromZeroCapacity() {
+        MyArrayList<Integer> list = new MyArrayList<>(0);
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+
+        assertEquals(20, list.size(), "growFromZeroCapacity FAIL. Incorrect list size");
+        assertEquals(19, list.get(19), "growFromZeroCapacity FAIL. Invalid value of list item by index");
+    }
+
+    @Test
+    void growFromCapacityOne() {
+        MyArrayList<Integer> list = new MyArrayList<>(1);
+        list.add(1);
+        list.add(2);
+        list.add(0, 0);
+
+        assertArrayEquals(new Object[]{0, 1, 2}, list.toArray(), "growFromCapacityOne FAIL. Invalid list content");
+    }
+
+    @Test
+    void dirtyPositionTracking() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        assertFalse(list.isChangeTrackingEnabled(), "dirtyPositionTracking FAIL. Tracking is on by default");
+
+        list.enableChangeTracking();
+        assertTrue(list.isChangeTrackingEnabled());
+        assertEquals(10, list.dirtyCount());
+
+        list.markSorted();
+        assertEquals(0, list.dirtyCount(), "dirtyPositionTracking FAIL. Marks not cleared");
+
+        list.replace(7, 4);
+        list.replace(7, 6);
+        list.replace(8, 6);
+        assertEquals(2, list.dirtyCount());
+        assertTrue(list.isDirty(4));
+        assertFalse(list.isDirty(5));
+        assertTrue(list.isDirty(6));
+
+        list.add(1, 2);
+        assertEquals(3, list.dirtyCount());
+        assertTrue(list.isDirty(2));
+        assertTrue(list.isDirty(5));
+        assertTrue(list.isDirty(7));
+
+        list.remove(5);
+        list.remove(Integer.valueOf(0));
+        assertEquals(2, list.dirtyCount());
+        assertTrue(list.isDirty(1));
+        assertTrue(list.isDirty(5));
+        assertFalse(list.isDirty(8));
+
+        list.clear();
+        assertEquals(0, list.dirtyCount(), "dirtyPositionTracking FAIL. Marks not cleared");
+    }
+}
@@ -2,7 +2,9 @@ package org.example;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -107,4 +109,292 @@ class MyCollectionsTest {
         assertEquals(1, list.get(2));
     }
 
-}
\ No newline at end of file
+    @Test
+    void resortAfterModifications() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.enableChangeTracking();
+        for (int i = 0; i < 10; i++) {
+            list.add(i * 10);
+        }
+        MyCollections.sort(list, Comparator.naturalOrder());
+
+        list.replace(95, 2);
+        list.add(-5);
+        list.add(42, 5);
+        list.remove(0);
+
+        MyCollections.resort(list, Comparator.naturalOrder());
+
+        Object[] expected = {-5, 10, 30, 40, 42, 50, 60, 70, 80, 90, 95};
+        assertArrayEquals(expected, list.toArray());
+    }
+
+    @Test
+    void resortMatchesFullSort() {
+        Random random = new Random(26);
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.enableChangeTracking();
+        for (int i = 0; i < 500; i++) {
+            list.add(random.nextInt(1000));
+        }
+        MyCollections.sort(list, Comparator.naturalOrder());
+
+        for (int tick = 0; tick < 20; tick++) {
+            for (int change = 0; change < 5; change++) {
+                switch (random.nextInt(4)) {
+                    case 0 -> list.add(random.nextInt(1000));
+                    case 1 -> list.add(random.nextInt(1000), random.nextInt(list.size()));
+                    case 2 -> list.replace(random.nextInt(1000), random.nextInt(list.size()));
+                    default -> list.remove(random.nextInt(list.size()));
+                }
+            }
+            Object[] expected = list.toArray();
+            Arrays.sort(expected);
+
+            MyCollections.resort(list, Comparator.naturalOrder());
+
+            assertArrayEquals(expected, list.toArray());
+        }
+    }
+
+    @Test
+    void resortEditsAtBothEndsOfLargeList() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.enableChangeTracking();
+        for (int i = 0; i < 200_000; i++) {
+            list.add(i);
+        }
+        MyCollections.resort(list, Comparator.naturalOrder());
+
+        list.replace(150_000, 0);
+        list.replace(-1, 199_999);
+        list.add(100_000);
+        list.add(-2);
+
+        MyCollections.resort(list, Comparator.naturalOrder());
+
+        assertEquals(200_002, list.size());
+        assertEquals(-2, list.get(0));
+        assertEquals(-1, list.get(1));
+        assertEquals(199_998, list.get(list.size() - 1));
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(list.get(i - 1) <= list.get(i), "resortEditsAtBothEndsOfLargeList FAIL. Not sorted at index " + i);
+        }
+    }
+
+    @Test
+    void resortUnsortedList() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(3);
+        list.add(1);
+        list.add(2);
+
+        MyCollections.resort(list, Comparator.naturalOrder());
+
+        assertArrayEquals(new Object[]{1, 2, 3}, list.toArray());
+    }
+
+    @Test
+    void sortColumnarByKeyColumn() {
+        MyColumnarList<Trade> list = new MyColumnarList<>(Trade.class);
+        list.add(new Trade(1, "CCC", 30.0, 1));
+        list.add(new Trade(2, "AAA", 10.0, 2));
+        list.add(new Trade(3, "BBB", 20.0, 3));
+        list.add(new Trade(4, "AAA", 5.0, 4));
+
+        MyCollections.sort(list, "price");
+
+        assertEquals(new Trade(4, "AAA", 5.0, 4), list.get(0));
+        assertEquals(new Trade(2, "AAA", 10.0, 2), list.get(1));
+        assertEquals(new Trade(3, "BBB", 20.0, 3), list.get(2));
+        assertEquals(new Trade(1, "CCC", 30.0, 1), list.get(3));
+
+        MyCollections.sort(list, "symbol");
+
+        assertEquals("AAA", list.get(0).symbol());
+        assertEquals("AAA", list.get(1).symbol());
+        assertEquals(new Trade(3, "BBB", 20.0, 3), list.get(2));
+        assertEquals(new Trade(1, "CCC", 30.0, 1), list.get(3));
+    }
+
+    @Test
+    void sortColumnarMatchesRowSort() {
+        Random random = new Random(27);
+        MyColumnarList<Trade> columns = new MyColumnarList<>(Trade.class);
+        MyArrayList<Trade> rows = new MyArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Trade trade = new Trade(i, "S" + random.nextInt(10), random.nextInt(50), random.nextInt(100));
+            columns.add(trade);
+            rows.add(trade);
+        }
+
+        MyCollections.sort(columns, "quantity");
+        MyCollections.sort(rows, Comparator.comparingInt(Trade::quantity));
+
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(rows.get(i).quantity(), columns.get(i).quantity());
+        }
+    }
+
+    @Test
+    void adaptiveSortSmallList() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(5);
+        list.add(2);
+        list.add(8);
+
+        SortStats stats = MyCollections.adaptiveSort(list);
+
+        assertEquals(SortStats.Strategy.INSERTION, stats.strategy());
+        assertEquals(3, stats.size());
+        assertArrayEquals(new Object[]{2, 5, 8}, list.toArray());
+    }
+
+    @Test
+    void adaptiveSortNearlySorted() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        list.replace(-1, 500);
+        list.replace(2000, 10);
+
+        SortStats stats = MyCollections.adaptiveSort(list, Comparator.naturalOrder());
+
+        assertEquals(SortStats.Strategy.RUN_MERGE, stats.strategy());
+        assertEquals(3, stats.runs());
+        assertSorted(list, Comparator.naturalOrder());
+    }
+
+    @Test
+    void adaptiveSortIntegers() {
+        MyArrayList<Integer> list = randomList(5000, Integer.MAX_VALUE);
+        Object[] expected = list.toArray();
+        Arrays.sort(expected);
+
+        SortStats stats = MyCollections.adaptiveSort(list);
+
+        assertEquals(SortStats.Strategy.RADIX, stats.strategy());
+        assertTrue(stats.integerKeys());
+        assertArrayEquals(expected, list.toArray());
+    }
+
+    @Test
+    void adaptiveSortNegativeIntegers() {
+        Random random = new Random(28);
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            list.add(random.nextInt(2000) - 1000);
+        }
+        list.add(Integer.MIN_VALUE);
+        list.add(Integer.MAX_VALUE);
+
+        SortStats stats = MyCollections.adaptiveSort(list, Comparator.naturalOrder());
+
+        assertEquals(SortStats.Strategy.RADIX, stats.strategy());
+        assertEquals(Integer.MIN_VALUE, list.get(0));
+        assertEquals(Integer.MAX_VALUE, list.get(list.size() - 1));
+        assertSorted(list, Comparator.naturalOrder());
+    }
+
+    @Test
+    void adaptiveSortDuplicates() {
+        MyArrayList<Integer> list = randomList(5000, 4);
+
+        SortStats stats = MyCollections.adaptiveSort(list, Comparator.reverseOrder());
+
+        assertEquals(SortStats.Strategy.THREE_WAY_QUICKSORT, stats.strategy());
+        assertTrue(stats.duplicateRatio() >= 0.9);
+        assertFalse(stats.integerKeys());
+        assertSorted(list, Comparator.reverseOrder());
+    }
+
+    @Test
+    void adaptiveSortReverseSorted() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 1000; i > 0; i--) {
+            list.add(i);
+        }
+
+        SortStats stats = MyCollections.adaptiveSort(list, Comparator.naturalOrder());
+
+        assertEquals(SortStats.Strategy.RUN_MERGE, stats.strategy());
+        assertEquals(1, stats.runs());
+        assertEquals(1, list.get(0));
+        assertSorted(list, Comparator.naturalOrder());
+    }
+
+    @Test
+    void adaptiveSortManyCopiesOfFewKeys() {
+        MyArrayList<Integer> list = randomList(1_000_000, 1000);
+        Comparator<Integer> comparator = Comparator.comparingInt(Integer::intValue);
+
+        SortStats stats = MyCollections.adaptiveSort(list, comparator);
+
+        assertEquals(SortStats.Strategy.THREE_WAY_QUICKSORT, stats.strategy(), stats.reason());
+        assertTrue(stats.duplicateRatio() >= 0.99, stats.reason());
+        assertTrue(stats.distinctKeys() >= 1000 && stats.distinctKeys() <= 3000, stats.reason());
+        assertSorted(list, comparator);
+    }
+
+    @Test
+    void profileUniqueKeysIsNotDuplicateHeavy() {
+        int size = 1_000_000;
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        Random random = new Random(28);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Object temp = elements[i];
+            elements[i] = elements[j];
+            elements[j] = temp;
+        }
+        Comparator<Object> comparator = Comparator.comparingInt(o -> (Integer) o);
+
+        SortStats stats = MyCollections.profile(elements, comparator, false);
+
+        assertTrue(stats.duplicateRatio() < 0.1, stats.reason() + ", ratio " + stats.duplicateRatio());
+        assertTrue(stats.distinctKeys() > size / 2, "distinct keys " + stats.distinctKeys());
+        assertFalse(stats.reason().contains("duplicate"), stats.reason());
+    }
+
+    @Test
+    void adaptiveSortLargeList() {
+        MyArrayList<Integer> list = randomList(200_000, Integer.MAX_VALUE);
+        Comparator<Integer> comparator = Comparator.comparingInt(Integer::intValue);
+
+        SortStats stats = MyCollections.adaptiveSort(list, comparator);
+
+        assertTrue(stats.strategy() == SortStats.Strategy.PARALLEL
+                || stats.strategy() == SortStats.Strategy.THREE_WAY_QUICKSORT, stats.reason());
+        assertSorted(list, comparator);
+    }
+
+    @Test
+    void adaptiveSortThrowsClassCastException() {
+        MyArrayList<Object> list = new MyArrayList<>();
+        list.add(new Object());
+        list.add(new Object());
+
+        Exception exception = assertThrows(ClassCastException.class, () -> MyCollections.adaptiveSort(list));
+        assertTrue(exception.getMessage().contains("does not implement Comparable"));
+    }
+
+    private static MyArrayList<Integer> randomList(int size, int bound) {
+        Random random = new Random(28);
+        MyArrayList<Integer> list = new MyArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(bound));
+        }
+        return list;
+    }
+
+    private static <T> void assertSorted(MyArrayList<T> list, Comparator<? super T> comparator) {
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(comparator.compare(list.get(i - 1), list.get(i)) <= 0, "List is not sorted at index " + i);
+        }
+    }
+
+}
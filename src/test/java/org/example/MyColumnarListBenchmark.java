@@ -0,0 +1,105 @@
+package org.example;
+
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Compares field scans and key-column sorts of {@link MyColumnarList} against
+ * a {@link MyArrayList} holding the same {@link Trade} records.
+ *
+ * <p>Not a unit test; run it manually after {@code mvn test-compile}:
+ * <pre>
+ * java -cp target/classes:target/test-classes org.example.MyColumnarListBenchmark [rows]
+ * </pre>
+ */
+public class MyColumnarListBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 5;
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Trade[] trades = generate(rows);
+        System.out.printf("rows: %d%n", rows);
+
+        MyArrayList<Trade> rowList = fillRows(trades);
+        MyColumnarList<Trade> columnList = fillColumns(trades);
+        int price = columnList.columnIndex("price");
+
+        measure("scan price  MyArrayList<Trade>   ", () -> rowList, list -> {
+            double sum = 0;
+            for (int i = 0; i < list.size(); i++)
+                sum += list.get(i).price();
+            return sum;
+        });
+        measure("scan price  MyColumnarList<Trade>", () -> columnList, list -> {
+            double sum = 0;
+            for (int i = 0; i < list.size(); i++)
+                sum += list.getDouble(i, price);
+            return sum;
+        });
+        measure("sort price  MyArrayList<Trade>   ", () -> fillRows(trades), list -> {
+            sortRows(list);
+            return list.get(0).price();
+        });
+        measure("sort price  MyColumnarList<Trade>", () -> fillColumns(trades), list -> {
+            MyCollections.sort(list, "price");
+            return list.getDouble(0, price);
+        });
+    }
+
+    private static Trade[] generate(int rows) {
+        Random random = new Random(42);
+        Trade[] trades = new Trade[rows];
+        for (int i = 0; i < rows; i++) {
+            trades[i] = new Trade(i, "S" + random.nextInt(500),
+                    random.nextDouble() * 1000, random.nextInt(10_000));
+        }
+        return trades;
+    }
+
+    private static MyArrayList<Trade> fillRows(Trade[] trades) {
+        MyArrayList<Trade> list = new MyArrayList<>(trades.length);
+        for (Trade trade : trades)
+            list.add(trade);
+        return list;
+    }
+
+    /**
+     * Sorts the row list by price with the same index quick sort that
+     * {@link MyCollections#sort(MyColumnarList, String)} uses, so only the memory layout differs.
+     */
+    private static void sortRows(MyArrayList<Trade> list) {
+        int[] order = MyCollections.sortedOrder(list.size(),
+                (i, j) -> Double.compare(list.get(i).price(), list.get(j).price()));
+        Object[] rows = list.toArray();
+        for (int i = 0; i < order.length; i++)
+            list.replace((Trade) rows[order[i]], i);
+    }
+
+    private static MyColumnarList<Trade> fillColumns(Trade[] trades) {
+        MyColumnarList<Trade> list = new MyColumnarList<>(Trade.class, trades.length);
+        for (Trade trade : trades)
+            list.add(trade);
+        return list;
+    }
+
+    /**
+     * Runs a workload several times and prints the best time. The setup runs before every
+     * iteration and is not timed.
+     */
+    private static <S> void measure(String name, Supplier<S> setup, ToDoubleFunction<S> workload) {
+        double sink = 0;
+        for (int i = 0; i < WARMUP; i++)
+            sink += workload.applyAsDouble(setup.get());
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ITERATIONS; i++) {
+            S input = setup.get();
+            long start = System.nanoTime();
+            sink += workload.applyAsDouble(input);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s  best %8.2f ms  (sink %.1f)%n", name, best / 1e6, sink);
+    }
+}
@@ -0,0 +1,77 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyColumnarListTest {
+
+    @Test
+    void addAndGet() {
+        MyColumnarList<Trade> list = new MyColumnarList<>(Trade.class);
+        list.add(new Trade(1, "AAA", 10.5, 100));
+        list.add(new Trade(2, "BBB", 20.0, 5));
+
+        assertEquals(2, list.size(), "Add row FAIL. Incorrect list size value");
+        assertEquals(new Trade(1, "AAA", 10.5, 100), list.get(0), "Add row FAIL. Invalid row view by index");
+        assertEquals(new Trade(2, "BBB", 20.0, 5), list.get(1), "Add row FAIL. Invalid row view by index");
+    }
+
+    @Test
+    void typedGetters() {
+        MyColumnarList<Trade> list = new MyColumnarList<>(Trade.class);
+        list.add(new Trade(7, "AAA", 1.25, 3));
+
+        assertEquals(7L, list.getLong(0, list.columnIndex("id")));
+        assertEquals("AAA", list.getObject(0, list.columnIndex("symbol")));
+        assertEquals(1.25, list.getDouble(0, list.columnIndex("price")));
+        assertEquals(3, list.getInt(0, list.columnIndex("quantity")));
+    }
+
+    @Test
+    void typedGetterWrongType() {
+        MyColumnarList<Trade> list = new MyColumnarList<>(Trade.class);
+        list.add(new Trade(7, "AAA", 1.25, 3));
+
+        assertThrows(ClassCastException.class, () -> list.getInt(0, list.columnIndex("price")), "typedGetterWrongType FAIL. No exception has been granted");
+    }
+
+    @Test
+    void unknownColumn() {
+        MyColumnarList<Trade> list = new MyColumnarList<>(Trade.class);
+
+        assertThrows(IllegalArgumentException.class, () -> list.columnIndex("volume"), "unknownColumn FAIL. No exception has been granted");
+    }
+
+    @Test
+    void getInvalidIndex() {
+        MyColumnarList<Trade> list = new MyColumnarList<>(Trade.class);
+        list.add(new Trade(1, "AAA", 10.5, 100));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1), "getInvalidIndex FAIL. No exception has been granted");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(-1, 2), "getInvalidIndex FAIL. No exception has been granted");
+    }
+
+    @Test
+    void growFromZeroCapacity() {
+        MyColumnarList<Trade> list = new MyColumnarList<>(Trade.class, 0);
+        for (int i = 0; i < 100; i++) {
+            list.add(new Trade(i, "S" + i, i * 0.5, i));
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(new Trade(99, "S99", 49.5, 99), list.get(99));
+        assertThrows(IllegalArgumentException.class, () -> new MyColumnarList<>(Trade.class, -1));
+    }
+
+    @Test
+    void clear() {
+        MyColumnarList<Trade> list = new MyColumnarList<>(Trade.class);
+        list.add(new Trade(1, "AAA", 10.5, 100));
+
+        list.clear();
+
+        assertTrue(list.isEmpty(), "Clear FAIL. Incorrect list size");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0), "Clear FAIL. Row still accessible");
+    }
+}
@@ -0,0 +1,129 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures the crossover points used by {@link MyCollections#adaptiveSort(MyArrayList, Comparator)}:
+ * each section prints the time per sort of the competing strategies so the thresholds in
+ * {@link MyCollections} can be read off the table.
+ *
+ * <p>Not a unit test; run it manually after {@code mvn test-compile}:
+ * <pre>
+ * java -cp target/classes:target/test-classes org.example.SortCalibrationBenchmark
+ * </pre>
+ */
+public class SortCalibrationBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 5;
+    /**
+     * Elements sorted per timed iteration; small inputs are sorted repeatedly to reach it.
+     */
+    private static final int ELEMENTS_PER_ITERATION = 1_000_000;
+
+    @SuppressWarnings("unchecked")
+    private static final Comparator<Object> NATURAL = (Comparator<Object>) (Comparator<?>) Comparator.naturalOrder();
+    /**
+     * A comparator equivalent to the natural order that the dispatcher cannot recognize as such.
+     */
+    private static final Comparator<Object> BY_VALUE = Comparator.comparingInt(o -> (Integer) o);
+
+    private static final Random RANDOM = new Random(28);
+
+    public static void main(String[] args) {
+        System.out.printf("INSERTION_THRESHOLD (currently %d): insertion vs three-way, random%n",
+                MyCollections.INSERTION_THRESHOLD);
+        for (int size : new int[]{8, 16, 24, 32, 48, 64, 96, 128}) {
+            Object[] input = random(size, Integer.MAX_VALUE);
+            report("size " + size, input, NATURAL,
+                    SortStats.Strategy.INSERTION, SortStats.Strategy.THREE_WAY_QUICKSORT);
+        }
+
+        System.out.printf("%nRUN_MERGE_DIVISOR (currently %d): size 200000 split into runs%n",
+                MyCollections.RUN_MERGE_DIVISOR);
+        for (int divisor : new int[]{2, 4, 8, 16, 32, 64, 256}) {
+            Object[] input = runs(200_000, 200_000 / divisor);
+            report("size / " + divisor + " runs", input, BY_VALUE,
+                    SortStats.Strategy.RUN_MERGE, SortStats.Strategy.THREE_WAY_QUICKSORT,
+                    SortStats.Strategy.PARALLEL);
+        }
+
+        System.out.printf("%nRADIX_THRESHOLD (currently %d): random Integer, natural order%n",
+                MyCollections.RADIX_THRESHOLD);
+        for (int size : new int[]{100, 300, 1_000, 3_000, 10_000, 100_000, 1_000_000}) {
+            Object[] input = random(size, Integer.MAX_VALUE);
+            report("size " + size, input, NATURAL,
+                    SortStats.Strategy.RADIX, SortStats.Strategy.THREE_WAY_QUICKSORT,
+                    SortStats.Strategy.PARALLEL);
+        }
+
+        System.out.printf("%nPARALLEL_THRESHOLD (currently %d): random values, custom comparator%n",
+                MyCollections.PARALLEL_THRESHOLD);
+        for (int size : new int[]{5_000, 10_000, 25_000, 50_000, 100_000, 1_000_000}) {
+            Object[] input = random(size, Integer.MAX_VALUE);
+            report("size " + size, input, BY_VALUE,
+                    SortStats.Strategy.THREE_WAY_QUICKSORT, SortStats.Strategy.PARALLEL);
+        }
+
+        System.out.printf("%nDUPLICATE_THRESHOLD (currently %.3f): size 1000000, custom comparator, %d threads%n",
+                MyCollections.DUPLICATE_THRESHOLD, ForkJoinPool.getCommonPoolParallelism());
+        System.out.println("  only meaningful with more than one thread; otherwise PARALLEL is a sequential merge sort");
+        for (int distinct : new int[]{100_000, 10_000, 1_000, 100, 25, 10, 2}) {
+            Object[] input = random(1_000_000, distinct);
+            SortStats stats = MyCollections.profile(input, BY_VALUE, false);
+            report(String.format("%d (est. %d, ratio %.3f)", distinct, stats.distinctKeys(), stats.duplicateRatio()),
+                    input, BY_VALUE,
+                    SortStats.Strategy.THREE_WAY_QUICKSORT, SortStats.Strategy.PARALLEL);
+        }
+    }
+
+    private static Object[] random(int size, int bound) {
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++)
+            values[i] = RANDOM.nextInt(bound);
+        return values;
+    }
+
+    /**
+     * Creates an array of {@code runs} ascending runs of random values.
+     */
+    private static Object[] runs(int size, int runs) {
+        Object[] values = random(size, Integer.MAX_VALUE);
+        int length = size / runs;
+        for (int start = 0; start < size; start += length)
+            Arrays.sort(values, start, Math.min(size, start + length));
+        return values;
+    }
+
+    private static void report(String label, Object[] input, Comparator<Object> comparator,
+                               SortStats.Strategy... strategies) {
+        StringBuilder line = new StringBuilder(String.format("  %-32s", label));
+        for (SortStats.Strategy strategy : strategies) {
+            line.append(String.format("  %s %10.1f us", strategy, measure(input, comparator, strategy) / 1e3));
+        }
+        System.out.println(line);
+    }
+
+    /**
+     * Returns the best time in nanoseconds to sort one copy of the input with the strategy.
+     */
+    private static double measure(Object[] input, Comparator<Object> comparator, SortStats.Strategy strategy) {
+        int repeat = Math.max(1, ELEMENTS_PER_ITERATION / input.length);
+        long best = Long.MAX_VALUE;
+        for (int iteration = 0; iteration < WARMUP + ITERATIONS; iteration++) {
+            Object[][] copies = new Object[repeat][];
+            for (int i = 0; i < repeat; i++)
+                copies[i] = input.clone();
+            long start = System.nanoTime();
+            for (Object[] copy : copies)
+                MyCollections.sortArray(copy, comparator, strategy);
+            long elapsed = System.nanoTime() - start;
+            if (iteration >= WARMUP)
+                best = Math.min(best, elapsed);
+        }
+        return (double) best / repeat;
+    }
+}
@@ -0,0 +1,12 @@
+package org.example;
+
+/**
+ * A small record type used by the columnar list tests and benchmarks.
+ *
+ * @param id       the trade identifier
+ * @param symbol   the traded instrument
+ * @param price    the trade price
+ * @param quantity the traded quantity
+ */
+record Trade(long id, String symbol, double price, int quantity) {
+}